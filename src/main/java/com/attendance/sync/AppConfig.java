@@ -10,17 +10,32 @@ public class AppConfig {
     private boolean debugEnabled;
     private String logLevel;
     private String[] machineIds;
+    private String executionMode;
+    private int maxConcurrentRequests;
+    private long configReloadInterval;
+    private long liveWindowMinutes;
+    private int liveReservedRequests;
+    private int backlogFetchLimit;
+    private int livePollRequests;
     
     public AppConfig(Properties config) {
         this.sleepInterval = Long.parseLong(config.getProperty("app.sleep.interval", "60000"));
         this.debugEnabled = Boolean.parseBoolean(config.getProperty("app.debug.enabled", "true"));
         this.logLevel = config.getProperty("app.log.level", "INFO");
         
-        String machineIdList = config.getProperty("machine.ids", "101,102,103,104,105,106");
+        String machineIdList = config.getProperty("machine.ids", Constants.DEFAULT_MACHINE_IDS);
         this.machineIds = machineIdList.split(",");
         for (int i = 0; i < machineIds.length; i++) {
             machineIds[i] = machineIds[i].trim();
         }
+        
+        this.executionMode = config.getProperty("app.execution.mode", "platform").trim().toLowerCase();
+        this.maxConcurrentRequests = Integer.parseInt(config.getProperty("app.max.concurrent.requests", "32"));
+        this.configReloadInterval = Long.parseLong(config.getProperty("app.config.reload.interval", "5000"));
+        this.liveWindowMinutes = Long.parseLong(config.getProperty("app.live.window.minutes", "30"));
+        this.liveReservedRequests = Integer.parseInt(config.getProperty("app.live.reserved.requests", "8"));
+        this.backlogFetchLimit = Integer.parseInt(config.getProperty("app.backlog.fetch.limit", "5000"));
+        this.livePollRequests = Integer.parseInt(config.getProperty("app.live.poll.requests", "50"));
     }
     
     // Getters
@@ -28,4 +43,12 @@ public class AppConfig {
     public boolean isDebugEnabled() { return debugEnabled; }
     public String getLogLevel() { return logLevel; }
     public String[] getMachineIds() { return machineIds; }
+    public String getExecutionMode() { return executionMode; }
+    public int getMaxConcurrentRequests() { return maxConcurrentRequests; }
+    public long getConfigReloadInterval() { return configReloadInterval; }
+    public long getLiveWindowMinutes() { return liveWindowMinutes; }
+    public int getLiveReservedRequests() { return liveReservedRequests; }
+    public int getBacklogFetchLimit() { return backlogFetchLimit; }
+    public int getLivePollRequests() { return livePollRequests; }
+    public boolean isVirtualThreadMode() { return Constants.EXECUTION_MODE_VIRTUAL.equals(executionMode); }
 }
\ No newline at end of file
@@ -8,21 +8,31 @@ import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntUnaryOperator;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 import java.util.logging.FileHandler;
 import java.util.logging.SimpleFormatter;
 
+import org.apache.http.client.HttpClient;
 import org.apache.http.client.ResponseHandler;
+import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.impl.client.BasicResponseHandler;
 import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
 
@@ -38,6 +48,10 @@ import org.json.simple.JSONObject;
 public class AttendanceSync implements Runnable {
   
   private static final Logger logger = Logger.getLogger(AttendanceSync.class.getName());
+  private static boolean loggingConfigured;
+  private static final DateTimeFormatter OUTPUT_DATE_FORMATTER = DateTimeFormatter.ofPattern(Constants.OUTPUT_DATE_FORMAT);
+  private static final DateTimeFormatter SQL_DATE_FORMATTER = DateTimeFormatter.ofPattern(Constants.SQL_DATE_FORMAT);
+  private static final DateTimeFormatter SQL_PRECISE_DATE_FORMATTER = DateTimeFormatter.ofPattern(Constants.SQL_PRECISE_DATE_FORMAT);
   
   // Configuration properties
   private Properties config;
@@ -46,6 +60,24 @@ public class AttendanceSync implements Runnable {
   private ApiConfig apiConfig;
   private AppConfig appConfig;
   
+  // Machine routing table, swapped as a whole on configuration reload
+  private volatile MachineRegistry machineRegistry;
+  
+  // Concurrency controls for virtual-thread mode
+  private boolean virtualThreadMode;
+  private final ReentrantLock dbLock = new ReentrantLock();
+  private HttpClient sharedHttpClient;
+  
+  // Scheduling lanes: fresh punches first, backlog drained in chunks
+  private SyncLane liveLane;
+  private SyncLane backlogLane;
+  private PunchRecord backlogCursor;
+  private boolean backlogPending;
+  private Timestamp livePolledAt;
+  
+  // Keep lane statistics across cycles (used by load test mode)
+  private boolean retainLaneStats;
+  
   /**
    * Constructor - loads configuration from properties file
    */
@@ -55,9 +87,22 @@ public class AttendanceSync implements Runnable {
   }
   
   /**
-   * Setup logging configuration
+   * Constructor - uses the given configuration instead of the properties file
    */
-  private void setupLogging() {
+  AttendanceSync(Properties config) {
+    setupLogging();
+    applyConfiguration(config);
+  }
+  
+  /**
+   * Setup logging configuration. The logger is static, so the file handler is
+   * added only once however many instances are created.
+   */
+  private static synchronized void setupLogging() {
+    if (loggingConfigured) {
+      return;
+    }
+    loggingConfigured = true;
     try {
       FileHandler fileHandler = new FileHandler(Constants.DEFAULT_LOG_PATH, true);
       fileHandler.setFormatter(new SimpleFormatter());
@@ -78,15 +123,7 @@ public class AttendanceSync implements Runnable {
       config.load(configFile);
       configFile.close();
       
-      // Load configuration objects
-      dbConfig = new DatabaseConfig(config);
-      schoolConfig = new SchoolConfig(config);
-      apiConfig = new ApiConfig(config);
-      appConfig = new AppConfig(config);
-      
-      logger.info(Constants.LOG_CONFIG_LOADED);
-      logger.info(Constants.LOG_SCHOOL_PREFIX + schoolConfig.getSchoolName());
-      logger.info(Constants.LOG_DATABASE_PREFIX + dbConfig.getHost() + ":" + dbConfig.getPort());
+      applyConfiguration(config);
       
     } catch (IOException e) {
       logger.severe(Constants.ERROR_CONFIG_LOAD + e.getMessage());
@@ -96,6 +133,87 @@ public class AttendanceSync implements Runnable {
     }
   }
   
+  /**
+   * Build configuration objects from loaded properties
+   */
+  private void applyConfiguration(Properties config) {
+    this.config = config;
+    
+    // Load configuration objects
+    dbConfig = new DatabaseConfig(config);
+    schoolConfig = new SchoolConfig(config);
+    apiConfig = new ApiConfig(config);
+    appConfig = new AppConfig(config);
+    machineRegistry = new MachineRegistry(config, true);
+    
+    virtualThreadMode = appConfig.isVirtualThreadMode();
+    if (virtualThreadMode && !VirtualThreads.isSupported()) {
+      logger.warning(Constants.ERROR_VIRTUAL_UNSUPPORTED);
+      virtualThreadMode = false;
+    }
+    if (virtualThreadMode) {
+      sharedHttpClient = createPooledHttpClient();
+    }
+    liveLane = new SyncLane(Constants.LANE_LIVE);
+    backlogLane = new SyncLane(Constants.LANE_BACKLOG);
+    
+    logger.info(Constants.LOG_CONFIG_LOADED);
+    logger.info(Constants.LOG_SCHOOL_PREFIX + schoolConfig.getSchoolName());
+    logger.info(Constants.LOG_DATABASE_PREFIX + dbConfig.getHost() + ":" + dbConfig.getPort());
+    logger.info(Constants.LOG_EXECUTION_MODE + (virtualThreadMode
+        ? Constants.EXECUTION_MODE_VIRTUAL + " (max " + appConfig.getMaxConcurrentRequests() + " concurrent requests)"
+        : Constants.EXECUTION_MODE_PLATFORM));
+  }
+  
+  /**
+   * Replace the machine registry from reloaded configuration. In-flight
+   * sends finish with the routes they already looked up.
+   */
+  private void reloadMachineRegistry(Properties reloaded) {
+    try {
+      MachineRegistry registry = new MachineRegistry(reloaded, false);
+      machineRegistry = registry;
+      logger.info(Constants.LOG_REGISTRY_RELOADED + registry.getConfiguredIds());
+    } catch (RuntimeException e) {
+      logger.warning(Constants.ERROR_CONFIG_RELOAD + e.getMessage() + " - keeping previous machine configuration");
+    }
+  }
+  
+  /**
+   * Loaded configuration properties
+   */
+  Properties getConfig() {
+    return config;
+  }
+  
+  /**
+   * Keep lane latency statistics across cycles instead of resetting them
+   * after each cycle's report (used by load test mode)
+   */
+  void setRetainLaneStats(boolean retainLaneStats) {
+    this.retainLaneStats = retainLaneStats;
+  }
+  
+  // Lane access for load test reporting
+  SyncLane getLiveLane() { return liveLane; }
+  SyncLane getBacklogLane() { return backlogLane; }
+  
+  /**
+   * Execution mode actually in use, after any fallback from virtual mode
+   */
+  String getEffectiveExecutionMode() {
+    return virtualThreadMode ? Constants.EXECUTION_MODE_VIRTUAL : Constants.EXECUTION_MODE_PLATFORM;
+  }
+  
+  /**
+   * Time to wait before the next cycle: none while backlog remains,
+   * otherwise the configured sleep interval
+   */
+  long nextSleepInterval() {
+    return backlogPending ? 0 : appConfig.getSleepInterval();
+  }
+
+  
   /**
    * Create default configuration file
    */
@@ -122,9 +240,16 @@ public class AttendanceSync implements Runnable {
     defaultConfig.setProperty("app.sleep.interval", "60000");
     defaultConfig.setProperty("app.debug.enabled", "true");
     defaultConfig.setProperty("app.log.level", "INFO");
+    defaultConfig.setProperty("app.execution.mode", "platform");
+    defaultConfig.setProperty("app.max.concurrent.requests", "32");
+    defaultConfig.setProperty("app.config.reload.interval", "5000");
+    defaultConfig.setProperty("app.live.window.minutes", "30");
+    defaultConfig.setProperty("app.live.reserved.requests", "8");
+    defaultConfig.setProperty("app.backlog.fetch.limit", "5000");
+    defaultConfig.setProperty("app.live.poll.requests", "50");
     
     // Machine defaults
-    defaultConfig.setProperty("machine.ids", "101,102,103,104,105,106");
+    defaultConfig.setProperty("machine.ids", Constants.DEFAULT_MACHINE_IDS);
     
     try {
       defaultConfig.store(new java.io.FileOutputStream(Constants.DEFAULT_CONFIG_PATH),
@@ -184,6 +309,9 @@ public class AttendanceSync implements Runnable {
           case Constants.CMD_HELP:
             app.showHelp();
             return;
+          case Constants.CMD_LOAD_TEST:
+            new LoadTest(app.getConfig()).run();
+            return;
         }
       }
       
@@ -241,6 +369,7 @@ public class AttendanceSync implements Runnable {
     System.out.println("Options:");
     System.out.println("  --test-connection    Test database connectivity");
     System.out.println("  --test-api          Test API connectivity");
+    System.out.println("  --load-test         Seed a load test database and sync it against a mock API");
     System.out.println("  --help              Show this help message");
     System.out.println("");
     System.out.println("Configuration:");
@@ -255,6 +384,7 @@ public class AttendanceSync implements Runnable {
    */
   public synchronized void fetchRecord() throws SQLException {
     Connection con = null;
+    backlogPending = false;
     try {
       con = getConnection();
       if (con == null) {
@@ -262,23 +392,55 @@ public class AttendanceSync implements Runnable {
         return;
       }
       
-      String sql = Constants.FETCH_UNPROCESSED_RECORDS_SQL;
+      // Punches inside the freshness window go to the live lane, older ones
+      // to the backlog lane, which is fetched in bounded chunks. The window
+      // is taken from the database clock, the clock PunchDatetime is written
+      // against, so both lanes split at the same instant.
+      Timestamp[] clock = readDatabaseClock(con);
+      Timestamp cutoff = clock[1];
       
-      PreparedStatement ps = con.prepareStatement(sql);
-      ResultSet rs = ps.executeQuery();
+      // Punches stay packed through sort and dedup until they are sent
+      MachineRegistry registry = machineRegistry;
+      IntUnaryOperator priority = machine -> registry.priorityOf((short) machine);
       
-      int recordCount = 0;
-      while (rs.next()) {
-        recordCount++;
-        try {
-          processRecord(rs, con);
-        } catch (Exception e) {
-          logger.severe("Error processing record: " + e.getMessage());
-          if (appConfig.isDebugEnabled()) {
-            e.printStackTrace();
-          }
-        } 
-      } 
+      int recordCount = fetchLiveLane(con, cutoff, null, priority);
+      livePolledAt = clock[0];
+      
+      int backlogLimit = Math.max(1, appConfig.getBacklogFetchLimit());
+      PreparedStatement backlogPs = con.prepareStatement(backlogCursor != null
+          ? Constants.FETCH_BACKLOG_NEXT_SQL : Constants.FETCH_BACKLOG_FIRST_SQL);
+      backlogPs.setInt(1, backlogLimit);
+      backlogPs.setString(2, formatSqlDateTime(cutoff));
+      if (backlogCursor != null) {
+        String cursorTime = formatSqlDateTime(backlogCursor.getPunchTime());
+        backlogPs.setString(3, cursorTime);
+        backlogPs.setString(4, cursorTime);
+        backlogPs.setString(5, backlogCursor.getMachineId());
+        backlogPs.setString(6, backlogCursor.getMachineId());
+        backlogPs.setString(7, backlogCursor.getCardNo());
+      }
+      backlogLane.fetch(backlogPs);
+      
+      // A full chunk means more backlog remains: continue after the last row
+      // (time, machine, card) next cycle, otherwise start the next sweep from
+      // the oldest punch
+      backlogPending = backlogLane.getRowsFetched() >= backlogLimit;
+      backlogCursor = backlogPending ? backlogLane.getLastRow() : null;
+      recordCount += prepareLane(backlogLane, priority);
+      
+      if (virtualThreadMode) {
+        recordCount += processConcurrently(con, priority);
+      } else {
+        processSerially(liveLane, con);
+        recordCount += processBacklogSerially(con, priority);
+      }
+      
+      logger.info(liveLane.summary());
+      logger.info(backlogLane.summary());
+      if (!retainLaneStats) {
+        liveLane.resetStats();
+        backlogLane.resetStats();
+      }
       
       logger.info("Total records processed: " + recordCount);
       if (recordCount == 0) {
@@ -302,62 +464,396 @@ public class AttendanceSync implements Runnable {
   }
   
   /**
-   * Process individual attendance record
+   * Current database time and the start of the live window, in that order
+   */
+  private Timestamp[] readDatabaseClock(Connection con) throws SQLException {
+    try (PreparedStatement ps = con.prepareStatement(Constants.FETCH_DB_CLOCK_SQL)) {
+      ps.setLong(1, appConfig.getLiveWindowMinutes());
+      try (ResultSet rs = ps.executeQuery()) {
+        rs.next();
+        return new Timestamp[] { rs.getTimestamp(1), rs.getTimestamp(2) };
+      }
+    }
+  }
+  
+  /**
+   * Fetch unsynced punches stamped in [from, to) into the live lane, with no
+   * upper bound if to is null, and prepare them. Returns the number of
+   * punches to send.
+   */
+  private int fetchLiveLane(Connection con, Timestamp from, Timestamp to, IntUnaryOperator priority)
+      throws SQLException {
+    PreparedStatement livePs = con.prepareStatement(to == null
+        ? Constants.FETCH_LIVE_RECORDS_SQL : Constants.FETCH_LIVE_POLL_SQL);
+    livePs.setString(1, formatSqlDateTime(from));
+    if (to != null) {
+      livePs.setString(2, formatSqlDateTime(to));
+    }
+    liveLane.fetch(livePs);
+    return prepareLane(liveLane, priority);
+  }
+  
+  /**
+   * Fetch live punches stamped since the previous poll, up to the current
+   * database time, so consecutive polls never return the same punch.
+   * Punches that arrive late with an earlier time are picked up next cycle.
+   * Returns the number of punches to send, 0 if the poll failed.
+   */
+  private int pollLiveLane(Connection con, IntUnaryOperator priority) {
+    dbLock.lock();
+    try {
+      Timestamp polledAt = readDatabaseClock(con)[0];
+      int polled = fetchLiveLane(con, livePolledAt, polledAt, priority);
+      livePolledAt = polledAt;
+      if (polled > 0) {
+        logger.info(Constants.LOG_LIVE_POLLED + polled);
+      }
+      return polled;
+    } catch (SQLException e) {
+      logger.warning(Constants.ERROR_LIVE_POLL + e.getMessage());
+      return 0;
+    } finally {
+      dbLock.unlock();
+    }
+  }
+  
+  /**
+   * Number of backlog sends between live polls, or 0 to poll only once per cycle
+   */
+  private int livePollInterval(int backlogSends) {
+    return appConfig.getLivePollRequests() > 0 ? appConfig.getLivePollRequests() : backlogSends;
+  }
+  
+  /**
+   * Sort a lane's fetched punches into send order and drop duplicates.
+   * Returns the number of punches to send.
+   */
+  private int prepareLane(SyncLane lane, IntUnaryOperator priority) {
+    PunchBuffer punches = lane.getPunches();
+    punches.sort(priority);
+    int duplicates = punches.dedup();
+    if (duplicates > 0) {
+      logger.info(Constants.LOG_DUPLICATES_SKIPPED + duplicates);
+    }
+    return punches.size() + lane.getRawRecords().size();
+  }
+  
+  /**
+   * Send a lane's punches one at a time on the calling thread
+   */
+  private void processSerially(SyncLane lane, Connection con) throws SQLException {
+    sendPunches(lane, 0, lane.getPunches().size(), con);
+    sendRawRecords(lane, con);
+  }
+  
+  /**
+   * Send the backlog lane on the calling thread, checking for new live
+   * punches every app.live.poll.requests backlog sends and sending them
+   * first, so fresh punches never wait behind a whole backlog chunk.
+   * Returns the number of live punches picked up by these polls.
+   */
+  private int processBacklogSerially(Connection con, IntUnaryOperator priority) throws SQLException {
+    int sendCount = backlogLane.getPunches().size();
+    int pollEvery = livePollInterval(sendCount);
+    int livePunches = 0;
+    int next = 0;
+    while (next < sendCount) {
+      int end = Math.min(sendCount, next + pollEvery);
+      sendPunches(backlogLane, next, end, con);
+      next = end;
+      if (next < sendCount) {
+        int polled = pollLiveLane(con, priority);
+        if (polled > 0) {
+          processSerially(liveLane, con);
+          livePunches += polled;
+        }
+      }
+    }
+    sendRawRecords(backlogLane, con);
+    return livePunches;
+  }
+  
+  /**
+   * Send punches [first, end) of a lane on the calling thread. A database
+   * failure ends the cycle, since every later punch would be sent but could
+   * not be marked as synced.
+   */
+  private void sendPunches(SyncLane lane, int first, int end, Connection con) throws SQLException {
+    PunchBuffer punches = lane.getPunches();
+    for (int i = first; i < end; i++) {
+      try {
+        processPunch(lane, punches, i, con);
+      } catch (SQLException e) {
+        throw e;
+      } catch (Exception e) {
+        logger.severe("Error processing record: " + e.getMessage());
+        if (appConfig.isDebugEnabled()) {
+          e.printStackTrace();
+        }
+      } 
+    } 
+  }
+  
+  /**
+   * Send a lane's raw records one at a time on the calling thread
+   */
+  private void sendRawRecords(SyncLane lane, Connection con) throws SQLException {
+    for (PunchRecord punch : lane.getRawRecords()) {
+      try {
+        processRecord(lane, punch, con);
+      } catch (SQLException e) {
+        throw e;
+      } catch (Exception e) {
+        logger.severe("Error processing record: " + e.getMessage());
+        if (appConfig.isDebugEnabled()) {
+          e.printStackTrace();
+        }
+      }
+    }
+  }
+  
+  /**
+   * Send punches of both lanes on virtual threads, one task per punch.
+   * 
+   * All tasks belong to a single cycle scope, so the cycle finishes or is
+   * cancelled as a unit. The cycle thread takes outbound I/O permits before
+   * forking each send, in send order, so sends start in that order and
+   * the number of live threads is bounded by app.max.concurrent.requests.
+   * 
+   * Every send takes a permit from the global pool of
+   * app.max.concurrent.requests; backlog sends also take one from a pool
+   * that is app.live.reserved.requests smaller, so the backlog can never
+   * hold the permits reserved for the live lane. Every app.live.poll.requests
+   * backlog forks the cycle thread polls for new live punches and forks them
+   * against the global pool only, so a punch arriving mid-cycle starts
+   * within the reserved share instead of waiting behind the backlog chunk.
+   * Permits are created per cycle, so tasks cancelled before they start
+   * cannot leak them. Returns the number of live punches picked up by polls.
    */
-  private void processRecord(ResultSet rs, Connection con) throws Exception {
-    // Extract data from result set
-    String machineId = rs.getString("MachineNo");
-    String cardNo = rs.getString("CardNo");
-    String punchDateTime = rs.getString("PunchDatetime");
+  private int processConcurrently(Connection con, IntUnaryOperator priority) {
+    int maxRequests = Math.max(1, appConfig.getMaxConcurrentRequests());
+    int liveReserved = Math.max(0, Math.min(appConfig.getLiveReservedRequests(), maxRequests - 1));
+    Semaphore requestPermits = new Semaphore(maxRequests);
+    Semaphore[] livePermits = { requestPermits };
+    Semaphore[] backlogPermits = { new Semaphore(maxRequests - liveReserved), requestPermits };
+    int livePunches = 0;
     
-    // Format data
-    Date dateObject = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").parse(punchDateTime);
-    String formattedDateTime = new SimpleDateFormat("dd-MM-yyyy HH:mm:ss").format(dateObject);
-    String formattedCardNo = String.format("%08d", Integer.parseInt(cardNo));
+    try (SyncCycleScope scope = new SyncCycleScope(VirtualThreads.newExecutor())) {
+      forkLane(scope, liveLane, livePermits, con);
+      
+      PunchBuffer backlog = backlogLane.getPunches();
+      int pollEvery = livePollInterval(backlog.size());
+      for (int i = 0; i < backlog.size(); i++) {
+        if (i > 0 && i % pollEvery == 0) {
+          int polled = pollLiveLane(con, priority);
+          if (polled > 0) {
+            forkLane(scope, liveLane, livePermits, con);
+            livePunches += polled;
+          }
+        }
+        final int index = i;
+        forkWithPermits(scope, backlogPermits, () -> processPunch(backlogLane, backlog, index, con));
+      }
+      for (final PunchRecord punch : backlogLane.getRawRecords()) {
+        forkWithPermits(scope, backlogPermits, () -> processRecord(backlogLane, punch, con));
+      }
+      scope.join();
+    } catch (InterruptedException e) {
+      logger.warning(Constants.ERROR_CYCLE_CANCELLED + "interrupted");
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      logger.severe(Constants.ERROR_CYCLE_CANCELLED + e.getCause());
+    }
+    return livePunches;
+  }
+  
+  /**
+   * Fork a send task for each punch and raw record the lane currently holds,
+   * in send order. Tasks keep the buffer they were forked with, so a later
+   * live poll can refill the lane while they run.
+   */
+  private void forkLane(SyncCycleScope scope, SyncLane lane, Semaphore[] permits, Connection con)
+      throws InterruptedException, ExecutionException {
+    final PunchBuffer punches = lane.getPunches();
+    for (int i = 0; i < punches.size(); i++) {
+      final int index = i;
+      forkWithPermits(scope, permits, () -> processPunch(lane, punches, index, con));
+    }
+    for (final PunchRecord punch : lane.getRawRecords()) {
+      forkWithPermits(scope, permits, () -> processRecord(lane, punch, con));
+    }
+  }
+  
+  /**
+   * A send of one punch, run as a task of the cycle scope
+   */
+  private interface PunchSend {
+    void run() throws Exception;
+  }
+  
+  /**
+   * Take one permit from each pool, in order, on the cycle thread, then fork
+   * the send; the task releases the permits when it finishes. A database
+   * failure fails the task, which cancels the rest of the cycle; other
+   * failures only affect the punch being sent.
+   */
+  private void forkWithPermits(SyncCycleScope scope, Semaphore[] permits, PunchSend send)
+      throws InterruptedException, ExecutionException {
+    int acquired = 0;
+    try {
+      for (Semaphore permit : permits) {
+        permit.acquire();
+        acquired++;
+      }
+      scope.fork(() -> {
+        try {
+          send.run();
+        } catch (SQLException e) {
+          throw e;
+        } catch (Exception e) {
+          logger.severe("Error processing record: " + e.getMessage());
+          if (appConfig.isDebugEnabled()) {
+            e.printStackTrace();
+          }
+        } finally {
+          releasePermits(permits, permits.length);
+        }
+        return null;
+      });
+    } catch (InterruptedException | RuntimeException | ExecutionException e) {
+      releasePermits(permits, acquired);
+      throw e;
+    }
+  }
+  
+  private static void releasePermits(Semaphore[] permits, int count) {
+    for (int i = 0; i < count; i++) {
+      permits[i].release();
+    }
+  }
+  
+  /**
+   * Process punch i of a buffer fetched by the lane
+   */
+  private void processPunch(SyncLane lane, PunchBuffer punches, int i, Connection con) throws Exception {
+    String machineId = String.valueOf(punches.getMachine(i));
+    MachineRoute route = machineRegistry.lookup(punches.getMachine(i));
+    String schoolCode = route != null ? route.getSchoolCode() : schoolConfig.getSchoolCode();
+    
+    // Format data and create JSON payload only at send time
+    JSONArray list = new JSONArray();
+    list.add(buildRecord(punches.getCard(i), punches.getTime(i), machineId, schoolCode));
+    
+    String label = "Employee " + String.format(Constants.CARD_NUMBER_FORMAT, punches.getCard(i));
+    if (sendAttendance(lane, machineId, route, list, label)) {
+      updateDatabase(con, punches, i);
+      lane.recordSynced(punches.getTime(i));
+      logger.info("✅ Record successfully synced for " + label);
+    }
+  }
+  
+  /**
+   * Process a punch kept with its original column values
+   */
+  private void processRecord(SyncLane lane, PunchRecord punch, Connection con) throws Exception {
+    short machine = Short.parseShort(punch.getMachineId().trim());
+    int card = Integer.parseInt(punch.getCardNo().trim());
+    String machineId = String.valueOf(machine);
+    MachineRoute route = machineRegistry.lookup(machine);
+    String schoolCode = route != null ? route.getSchoolCode() : schoolConfig.getSchoolCode();
+    
+    JSONArray list = new JSONArray();
+    list.add(buildRecord(card, punch.getPunchTime().getTime(), machineId, schoolCode));
+    
+    String label = "Employee " + String.format(Constants.CARD_NUMBER_FORMAT, card);
+    if (sendAttendance(lane, machineId, route, list, label)) {
+      updateDatabase(con, punch);
+      lane.recordSynced(punch.getPunchTime().getTime());
+      logger.info("✅ Record successfully synced for " + label);
+    }
+  }
+  
+  /**
+   * Build the API record for one punch
+   */
+  private JSONObject buildRecord(int card, long punchMillis, String machineId, String schoolCode) {
+    String formattedDateTime = formatPunchTime(punchMillis);
+    String formattedCardNo = String.format(Constants.CARD_NUMBER_FORMAT, card);
     
     logger.info("Processing: Employee " + formattedCardNo + " at " + formattedDateTime + " on Machine " + machineId);
     
-    // Create JSON payload
     JSONObject record = new JSONObject();
     record.put("biomatric_code", formattedCardNo);
-    record.put("school_code", schoolConfig.getSchoolCode());
+    record.put("school_code", schoolCode);
     record.put("datetime", formattedDateTime);
-    
-    JSONArray list = new JSONArray();
-    list.add(record);
-    
+    return record;
+  }
+  
+  /**
+   * Send an attendance record to the API. Returns true if the record should
+   * be marked as processed.
+   */
+  private boolean sendAttendance(SyncLane lane, String machineId, MachineRoute route, JSONArray list, String label) {
     JSONObject json = new JSONObject();
     json.put("data", list);
     
     // Send to API
     try {
-      String url = buildURL(machineId, json);
+      String url = buildURL(machineId, route, json);
       logger.info("Sending attendance data to server for Machine: " + machineId);
       
+      long started = System.nanoTime();
       String response = hitServer(url);
+      lane.recordRequest(System.nanoTime() - started);
       
       if (appConfig.isDebugEnabled()) {
         logger.info("API response: " + response);
       }
       
-      boolean shouldUpdate = analyzeResponse(response);
-      
-      if (shouldUpdate) {
-        updateDatabase(con, punchDateTime, cardNo, machineId);
-        logger.info("✅ Record successfully synced for Employee " + formattedCardNo);
-      } else {
-        logger.warning("⚠️  Record not synced - will retry in next cycle for Employee " + formattedCardNo);
+      if (analyzeResponse(response)) {
+        return true;
       }
+      logger.warning("⚠️  Record not synced - will retry in next cycle for " + label);
     } catch (IllegalArgumentException e) {
       logger.warning("❌ Configuration issue: " + e.getMessage());
-      logger.warning("⚠️  Skipping record for Employee " + formattedCardNo + " - check machine.ids configuration");
+      logger.warning("⚠️  Skipping record for " + label + " - check machine.ids configuration");
     } catch (Exception e) {
       logger.severe("❌ Error sending data to server: " + e.getMessage());
       if (appConfig.isDebugEnabled()) {
         e.printStackTrace();
       }
-      logger.warning("⚠️  Record not synced - will retry in next cycle for Employee " + formattedCardNo);
+      logger.warning("⚠️  Record not synced - will retry in next cycle for " + label);
     }
+    return false;
+  }
+  
+  /**
+   * Format epoch milliseconds in the API date format
+   */
+  private static String formatPunchTime(long epochMillis) {
+    return Instant.ofEpochMilli(epochMillis).atZone(ZoneId.systemDefault()).format(OUTPUT_DATE_FORMATTER);
+  }
+  
+  /**
+   * Format epoch milliseconds as an ISO 8601 literal for binding against
+   * PunchDatetime. SQL Server converts it to the column type exactly and
+   * independently of the session language, unlike a datetime2 parameter,
+   * which does not compare equal to datetime values such as .997.
+   */
+  private static String formatSqlDateTime(long epochMillis) {
+    return Instant.ofEpochMilli(epochMillis).atZone(ZoneId.systemDefault()).format(SQL_DATE_FORMATTER);
+  }
+  
+  /**
+   * Format a fetched PunchDatetime as an ISO 8601 literal, with 100 ns
+   * precision only when the value has a sub-millisecond part (datetime
+   * columns reject more than three fractional digits)
+   */
+  private static String formatSqlDateTime(Timestamp punchTime) {
+    if (punchTime.getNanos() % 1_000_000 == 0) {
+      return formatSqlDateTime(punchTime.getTime());
+    }
+    return punchTime.toLocalDateTime().format(SQL_PRECISE_DATE_FORMATTER);
   }
   
   /**
@@ -396,64 +892,118 @@ public class AttendanceSync implements Runnable {
   }
   
   /**
-   * Update database record as processed
+   * Update punch i of the buffer as processed.
+   * 
+   * The connection is shared by all tasks of a cycle, so updates are
+   * serialized with a lock (not synchronized, which would pin virtual threads).
+   * Card and machine are bound as strings, as stored, so the comparison needs
+   * no conversion of the column and can use its index.
    */
-  private void updateDatabase(Connection con, String punchDateTime, String cardNo, String machineId) 
-      throws SQLException {
-    String updateSql = Constants.UPDATE_PROCESSED_RECORD_SQL;
+  private void updateDatabase(Connection con, PunchBuffer punches, int i) throws SQLException {
+    String punchTime = formatSqlDateTime(punches.getTime(i));
+    String cardNo = String.valueOf(punches.getCard(i));
+    String machineId = String.valueOf(punches.getMachine(i));
     
-    PreparedStatement updatePs = con.prepareStatement(updateSql);
-    updatePs.setString(1, punchDateTime);
-    updatePs.setString(2, cardNo);
-    updatePs.setString(3, machineId);
-    
-    int rowsUpdated = updatePs.executeUpdate();
-    logger.info(Constants.LOG_DATABASE_UPDATED + rowsUpdated);
-    updatePs.close();
+    dbLock.lock();
+    try {
+      PreparedStatement updatePs = con.prepareStatement(Constants.UPDATE_PROCESSED_RECORD_SQL);
+      updatePs.setString(1, punchTime);
+      updatePs.setString(2, cardNo);
+      updatePs.setString(3, machineId);
+      
+      int rowsUpdated = updatePs.executeUpdate();
+      updatePs.close();
+      if (rowsUpdated == 0) {
+        logger.warning(Constants.ERROR_NO_ROWS_UPDATED + punchTime + "/" + cardNo + "/" + machineId);
+      }
+      logger.info(Constants.LOG_DATABASE_UPDATED + rowsUpdated);
+    } finally {
+      dbLock.unlock();
+    }
+  }
+  
+  /**
+   * Update a raw punch as processed using its original column values
+   */
+  private void updateDatabase(Connection con, PunchRecord punch) throws SQLException {
+    dbLock.lock();
+    try {
+      PreparedStatement updatePs = con.prepareStatement(Constants.UPDATE_PROCESSED_RECORD_SQL);
+      updatePs.setString(1, formatSqlDateTime(punch.getPunchTime()));
+      updatePs.setString(2, punch.getCardNo());
+      updatePs.setString(3, punch.getMachineId());
+      
+      int rowsUpdated = updatePs.executeUpdate();
+      updatePs.close();
+      if (rowsUpdated == 0) {
+        logger.warning(Constants.ERROR_NO_ROWS_UPDATED + formatSqlDateTime(punch.getPunchTime())
+                       + "/" + punch.getCardNo() + "/" + punch.getMachineId());
+      }
+      logger.info(Constants.LOG_DATABASE_UPDATED + rowsUpdated);
+    } finally {
+      dbLock.unlock();
+    }
   }
   
   /**
-   * Build API URL for the given machine ID and JSON data
+   * Build API URL for the given machine route and JSON data
    */
-  private String buildURL(String machineId, JSONObject json) throws Exception {
+  private String buildURL(String machineId, MachineRoute route, JSONObject json) throws Exception {
     if (machineId == null || machineId.isEmpty() || json == null) {
       throw new IllegalArgumentException("MachineId and JSON data cannot be null or empty");
     }
     
     // Check if machine ID is configured
-    String[] configuredIds = appConfig.getMachineIds();
-    boolean found = false;
-    for (String id : configuredIds) {
-      if (id.trim().equals(machineId)) {
-        found = true;
-        break;
-      }
-    }
-    
-    if (!found) {
+    if (route == null) {
       throw new IllegalArgumentException("Unknown MachineId: " + machineId + 
-                                       ". Configured IDs: " + String.join(",", configuredIds));
+                                       ". Configured IDs: " + machineRegistry.getConfiguredIds());
     }
     
-    String baseUrl = apiConfig.getPrimaryUrl() + "?school_code=" + schoolConfig.getSchoolCode() + "&attendancedata=";
-    return baseUrl + URLEncoder.encode(json.toString(), "UTF-8");
+    return route.getUrlPrefix() + URLEncoder.encode(json.toString(), "UTF-8");
+  }
+  
+  /**
+   * HTTP client shared by all sends in virtual-thread mode. Its connection
+   * pool holds up to app.max.concurrent.requests keep-alive connections, so
+   * concurrent sends reuse connections instead of opening one per request.
+   */
+  private HttpClient createPooledHttpClient() {
+    int maxRequests = Math.max(1, appConfig.getMaxConcurrentRequests());
+    PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+    connectionManager.setMaxTotal(maxRequests);
+    connectionManager.setDefaultMaxPerRoute(maxRequests);
+    
+    RequestConfig requestConfig = RequestConfig.custom()
+        .setSocketTimeout(apiConfig.getTimeout())
+        .setConnectTimeout(apiConfig.getTimeout())
+        .setConnectionRequestTimeout(apiConfig.getTimeout())
+        .build();
+    
+    return HttpClients.custom()
+        .setConnectionManager(connectionManager)
+        .setDefaultRequestConfig(requestConfig)
+        .build();
   }
   
   /**
    * Send HTTP request to server
    */
   public String hitServer(String URL) {
-    DefaultHttpClient httpClient = null;
+    DefaultHttpClient requestClient = null;
     try {
       if (appConfig.isDebugEnabled()) {
         logger.info("Sending request to: " + URL);
       }
       
-      httpClient = new DefaultHttpClient();
-      
-      // Set timeouts
-      httpClient.getParams().setParameter("http.socket.timeout", apiConfig.getTimeout());
-      httpClient.getParams().setParameter("http.connection.timeout", apiConfig.getTimeout());
+      HttpClient httpClient = sharedHttpClient;
+      if (httpClient == null) {
+        requestClient = new DefaultHttpClient();
+        
+        // Set timeouts
+        requestClient.getParams().setParameter("http.socket.timeout", apiConfig.getTimeout());
+        requestClient.getParams().setParameter("http.connection.timeout", apiConfig.getTimeout());
+        httpClient = requestClient;
+      }
       
       HttpGet httpGet = new HttpGet(URL);
       BasicResponseHandler responseHandler = new BasicResponseHandler();
@@ -480,9 +1030,9 @@ public class AttendanceSync implements Runnable {
       }
       return "ERROR";
     } finally {
-      if (httpClient != null) {
+      if (requestClient != null) {
         try {
-          httpClient.getConnectionManager().shutdown();
+          requestClient.getConnectionManager().shutdown();
         } catch (Exception e) {
           // Ignore cleanup errors
         }
@@ -498,12 +1048,23 @@ public class AttendanceSync implements Runnable {
     try {
       logger.info("AttendanceSync started for " + schoolConfig.getSchoolName());
       
+      if (appConfig.getConfigReloadInterval() > 0) {
+        new ConfigReloader(Constants.DEFAULT_CONFIG_PATH, appConfig.getConfigReloadInterval(),
+                           this::reloadMachineRegistry).start();
+      }
+      
       while (true) {
         logger.info("Starting sync cycle...");
         fetchRecord();
         
-        logger.info("Sleeping for " + (appConfig.getSleepInterval() / 1000) + " seconds...");
-        Thread.sleep(appConfig.getSleepInterval());
+        long sleepInterval = nextSleepInterval();
+        if (sleepInterval == 0) {
+          logger.info(Constants.LOG_BACKLOG_PENDING);
+          continue;
+        }
+        
+        logger.info("Sleeping for " + (sleepInterval / 1000) + " seconds...");
+        Thread.sleep(sleepInterval);
       }
     } catch (InterruptedException e) {
       logger.info("Application interrupted, shutting down gracefully...");
@@ -0,0 +1,69 @@
+package com.attendance.sync;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.Properties;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * Watches the configuration file and hands freshly loaded properties to a
+ * listener whenever its modification time changes.
+ *
+ * Runs on its own daemon thread; the sync loop is never paused. If the file
+ * cannot be read (for example while it is being written), the reload is
+ * retried on the next poll.
+ */
+public class ConfigReloader implements Runnable {
+
+    private static final Logger logger = Logger.getLogger(AttendanceSync.class.getName());
+
+    private final File configFile;
+    private final long pollInterval;
+    private final Consumer<Properties> listener;
+    private long lastModified;
+
+    public ConfigReloader(String configPath, long pollInterval, Consumer<Properties> listener) {
+        this.configFile = new File(configPath);
+        this.pollInterval = pollInterval;
+        this.listener = listener;
+        this.lastModified = configFile.lastModified();
+    }
+
+    /**
+     * Start watching on a daemon thread
+     */
+    public Thread start() {
+        Thread thread = new Thread(this, "config-reloader");
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Thread.sleep(pollInterval);
+                long modified = configFile.lastModified();
+                if (modified == 0 || modified == lastModified) {
+                    continue;
+                }
+
+                Properties config = new Properties();
+                try (FileInputStream in = new FileInputStream(configFile)) {
+                    config.load(in);
+                } catch (IOException e) {
+                    logger.warning(Constants.ERROR_CONFIG_RELOAD + e.getMessage());
+                    continue;
+                }
+
+                lastModified = modified;
+                listener.accept(config);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
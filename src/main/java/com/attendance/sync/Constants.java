@@ -14,23 +14,76 @@ public class Constants {
     public static final String DEFAULT_CONFIG_PATH = "config/application.properties";
     public static final String DEFAULT_LOG_PATH = "logs/attendance-sync.log";
     
+    // Machine Defaults
+    public static final String DEFAULT_MACHINE_IDS = "101,102,103,104,105,106";
+    
     // Database Constants
     public static final String DB_DRIVER_NAME = "com.microsoft.sqlserver.jdbc.SQLServerDriver";
-    public static final String DB_URL_TEMPLATE = "jdbc:sqlserver://%s:%s;databaseName=%s;encrypt=false;trustServerCertificate=true;integratedSecurity=false;applicationIntent=ReadWrite;loginTimeout=30;";
+    public static final String DB_URL_TEMPLATE = "jdbc:sqlserver://%s:%s;databaseName=%s;encrypt=false;trustServerCertificate=true;integratedSecurity=false;applicationIntent=ReadWrite;loginTimeout=30;sendStringParametersAsUnicode=false;";
     
     // SQL Queries
-    public static final String FETCH_UNPROCESSED_RECORDS_SQL = 
+    public static final String FETCH_DB_CLOCK_SQL = 
+        "SELECT GETDATE(), DATEADD(MINUTE, -?, GETDATE())";
+    
+    public static final String FETCH_LIVE_RECORDS_SQL = 
+        "SELECT MachineNo, CardNo, PunchDatetime FROM Tran_MachineRawPunch " +
+        "WHERE (IsSync IS NULL OR IsSync = 0) AND PunchDatetime >= ? ORDER BY PunchDatetime ASC";
+    
+    public static final String FETCH_LIVE_POLL_SQL = 
         "SELECT MachineNo, CardNo, PunchDatetime FROM Tran_MachineRawPunch " +
-        "WHERE (IsSync IS NULL OR IsSync = 0) ORDER BY PunchDatetime ASC";
+        "WHERE (IsSync IS NULL OR IsSync = 0) AND PunchDatetime >= ? AND PunchDatetime < ? " +
+        "ORDER BY PunchDatetime ASC";
+    
+    // Backlog chunks are paged on (PunchDatetime, MachineNo, CardNo) so rows
+    // sharing a timestamp are never skipped at a chunk boundary
+    public static final String FETCH_BACKLOG_FIRST_SQL = 
+        "SELECT TOP (?) MachineNo, CardNo, PunchDatetime FROM Tran_MachineRawPunch " +
+        "WHERE (IsSync IS NULL OR IsSync = 0) AND MachineNo IS NOT NULL AND CardNo IS NOT NULL " +
+        "AND PunchDatetime < ? " +
+        "ORDER BY PunchDatetime ASC, MachineNo ASC, CardNo ASC";
+    
+    public static final String FETCH_BACKLOG_NEXT_SQL = 
+        "SELECT TOP (?) MachineNo, CardNo, PunchDatetime FROM Tran_MachineRawPunch " +
+        "WHERE (IsSync IS NULL OR IsSync = 0) AND MachineNo IS NOT NULL AND CardNo IS NOT NULL " +
+        "AND PunchDatetime < ? " +
+        "AND (PunchDatetime > ? OR (PunchDatetime = ? AND (MachineNo > ? OR (MachineNo = ? AND CardNo > ?)))) " +
+        "ORDER BY PunchDatetime ASC, MachineNo ASC, CardNo ASC";
     
     public static final String UPDATE_PROCESSED_RECORD_SQL = 
         "UPDATE dbo.Tran_MachineRawPunch SET IsSync=1 " +
         "WHERE PunchDatetime=? AND CardNo=? AND MachineNo=?";
     
+    // Load Test SQL
+    public static final String LOADTEST_CREATE_DATABASE_SQL = 
+        "IF DB_ID('%1$s') IS NULL CREATE DATABASE [%1$s]";
+    
+    public static final String LOADTEST_DROP_TABLE_SQL = 
+        "IF OBJECT_ID('dbo.Tran_MachineRawPunch', 'U') IS NOT NULL DROP TABLE dbo.Tran_MachineRawPunch";
+    
+    public static final String LOADTEST_CREATE_TABLE_SQL = 
+        "CREATE TABLE dbo.Tran_MachineRawPunch (" +
+        "MachineNo VARCHAR(10) NOT NULL, CardNo VARCHAR(20) NOT NULL, " +
+        "PunchDatetime DATETIME NOT NULL, IsSync BIT NULL DEFAULT NULL)";
+    
+    public static final String LOADTEST_CREATE_INDEX_SQL = 
+        "CREATE INDEX IX_RawPunch_Sync ON dbo.Tran_MachineRawPunch (PunchDatetime, MachineNo, CardNo)";
+    
+    public static final String LOADTEST_INSERT_SQL = 
+        "INSERT INTO dbo.Tran_MachineRawPunch (MachineNo, CardNo, PunchDatetime) VALUES (?, ?, ?)";
+    
+    public static final String LOADTEST_COUNT_UNPROCESSED_SQL = 
+        "SELECT COUNT(*) FROM Tran_MachineRawPunch WHERE (IsSync IS NULL OR IsSync = 0)";
+    
+    public static final String LOADTEST_BULK_INSERT_OPTION = "useBulkCopyForBatchInsert=true;";
+    public static final String LOADTEST_MASTER_DATABASE = "master";
+    public static final String LOADTEST_MOCK_PATH = "/StaffBiomatricPunch";
+    
     // Date Format Constants
     public static final String INPUT_DATE_FORMAT = "yyyy-MM-dd HH:mm:ss";
     public static final String OUTPUT_DATE_FORMAT = "dd-MM-yyyy HH:mm:ss";
     public static final String CARD_NUMBER_FORMAT = "%08d";
+    public static final String SQL_DATE_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSS";
+    public static final String SQL_PRECISE_DATE_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSSSSSS";
     
     // API Constants
     public static final String API_PARAM_SCHOOL_CODE = "school_code";
@@ -75,6 +128,11 @@ public class Constants {
     public static final String LOG_NO_RECORDS = "No unprocessed records found";
     public static final String LOG_SENDING_REQUEST = "Sending request to: ";
     public static final String LOG_RESPONSE_RECEIVED = "Server response received: ";
+    public static final String LOG_EXECUTION_MODE = "Execution mode: ";
+    public static final String LOG_DUPLICATES_SKIPPED = "Duplicate punches skipped: ";
+    public static final String LOG_LIVE_POLLED = "New live punches picked up during backlog: ";
+    public static final String LOG_BACKLOG_PENDING = "Backlog remaining, starting next cycle immediately";
+    public static final String LOG_REGISTRY_RELOADED = "Machine configuration reloaded. Configured IDs: ";
     
     // Error Messages
     public static final String ERROR_CONFIG_LOAD = "Error loading configuration: ";
@@ -96,6 +154,14 @@ public class Constants {
     public static final String ERROR_APP_STARTUP = "Application startup failed: ";
     public static final String ERROR_APP_ERROR = "Application error: ";
     public static final String ERROR_APP_INTERRUPTED = "Application interrupted, shutting down gracefully...";
+    public static final String ERROR_VIRTUAL_UNSUPPORTED = "Virtual threads require Java 21+, falling back to single-threaded mode";
+    public static final String ERROR_CYCLE_CANCELLED = "Sync cycle cancelled: ";
+    public static final String ERROR_INVALID_MACHINE_ID = "Machine IDs must be numbers between 0 and 32767: ";
+    public static final String ERROR_INVALID_MACHINE_PRIORITY = "Machine priority must be a whole number: ";
+    public static final String ERROR_LIVE_POLL = "Live lane poll failed, continuing backlog: ";
+    public static final String ERROR_CONFIG_RELOAD = "Configuration reload failed: ";
+    public static final String ERROR_NO_ROWS_UPDATED = "Record sent but no database row matched, it will be sent again next cycle: ";
+    public static final String ERROR_INVALID_PUNCH = "Skipping punch with non-numeric or missing MachineNo/CardNo/PunchDatetime: ";
     
     // Console Messages
     public static final String CONSOLE_APP_STARTING = "🚀 Starting AttendanceSync Application...";
@@ -114,6 +180,7 @@ public class Constants {
     public static final String HELP_TEST_CONNECTION = "  --test-connection    Test database connectivity";
     public static final String HELP_TEST_API = "  --test-api          Test API connectivity";
     public static final String HELP_HELP = "  --help              Show this help message";
+    public static final String HELP_LOAD_TEST = "  --load-test         Seed a load test database and sync it against a mock API";
     public static final String HELP_CONFIG = "Configuration:";
     public static final String HELP_CONFIG_EDIT = "  Edit config/application.properties to modify settings";
     public static final String HELP_LOGS = "Logs:";
@@ -126,10 +193,19 @@ public class Constants {
     public static final String JSON_FIELD_DATA = "data";
     public static final String JSON_FIELD_TEST = "test";
     
+    // Execution Modes
+    public static final String EXECUTION_MODE_PLATFORM = "platform";
+    public static final String EXECUTION_MODE_VIRTUAL = "virtual";
+    
+    // Scheduling Lanes
+    public static final String LANE_LIVE = "Live";
+    public static final String LANE_BACKLOG = "Backlog";
+    
     // Command Line Arguments
     public static final String CMD_TEST_CONNECTION = "--test-connection";
     public static final String CMD_TEST_API = "--test-api";
     public static final String CMD_HELP = "--help";
+    public static final String CMD_LOAD_TEST = "--load-test";
     
     // Private constructor to prevent instantiation
     private Constants() {
@@ -0,0 +1,94 @@
+package com.attendance.sync;
+
+import java.util.Arrays;
+
+/**
+ * Thread-safe recorder of latency samples with percentile reporting.
+ *
+ * Samples are kept as nanoseconds in a growable primitive array so that
+ * millions of requests can be recorded without boxing.
+ */
+public class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int count;
+
+    /**
+     * Record a single latency sample in nanoseconds
+     */
+    public synchronized void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, samples.length * 2);
+        }
+        samples[count++] = nanos;
+    }
+
+    /**
+     * Record every sample of another recorder
+     */
+    public void recordAll(LatencyRecorder other) {
+        for (long nanos : other.snapshot()) {
+            record(nanos);
+        }
+    }
+
+    /**
+     * Number of recorded samples
+     */
+    public synchronized int getCount() {
+        return count;
+    }
+
+    /**
+     * Latency at the given percentile (0-100) in milliseconds
+     */
+    public double percentileMillis(double percentile) {
+        long[] sorted = snapshot();
+        return sorted.length == 0 ? 0 : at(sorted, percentile) / 1_000_000.0;
+    }
+
+    /**
+     * One-line summary of p50/p90/p99/max latencies in milliseconds
+     */
+    public String summary() {
+        return summary(1_000_000.0, "ms");
+    }
+
+    /**
+     * One-line summary of p50/p90/p99/max latencies in seconds
+     */
+    public String summarySeconds() {
+        return summary(1_000_000_000.0, "s");
+    }
+
+    private String summary(double nanosPerUnit, String unit) {
+        long[] sorted = snapshot();
+        if (sorted.length == 0) {
+            return "no samples";
+        }
+        return String.format("n=%d p50=%.1f%6$s p90=%.1f%6$s p99=%.1f%6$s max=%.1f%6$s",
+                             sorted.length,
+                             at(sorted, 50) / nanosPerUnit, at(sorted, 90) / nanosPerUnit,
+                             at(sorted, 99) / nanosPerUnit, at(sorted, 100) / nanosPerUnit,
+                             unit);
+    }
+
+    /**
+     * Discard all recorded samples
+     */
+    public synchronized void reset() {
+        count = 0;
+    }
+
+    private synchronized long[] snapshot() {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    private static long at(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        index = Math.max(0, Math.min(sorted.length - 1, index));
+        return sorted[index];
+    }
+}
@@ -0,0 +1,229 @@
+package com.attendance.sync;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.Properties;
+import java.util.Random;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Load test mode (--load-test).
+ *
+ * Seeds a dedicated database with synthetic Tran_MachineRawPunch rows, starts
+ * an in-process mock of the attendance API and runs the real sync engine
+ * against both until the backlog is drained, then reports throughput,
+ * request latency percentiles and drain time.
+ *
+ * The load test database is configured separately (loadtest.db.name) and its
+ * punch table is dropped and recreated on every run, so it must never point
+ * at the production database.
+ */
+public class LoadTest {
+
+    private static final long RANDOM_SEED = 42L;
+
+    private final Properties baseConfig;
+    private final DatabaseConfig dbConfig;
+    private final LoadTestConfig loadTestConfig;
+
+    public LoadTest(Properties baseConfig) {
+        this.baseConfig = baseConfig;
+        this.dbConfig = new DatabaseConfig(baseConfig);
+        this.loadTestConfig = new LoadTestConfig(baseConfig);
+    }
+
+    /**
+     * Seed, sync and report
+     */
+    public void run() {
+        System.out.println("🧪 Starting load test against database " + loadTestConfig.getDatabaseName() + "...");
+        if (loadTestConfig.getDatabaseName().equalsIgnoreCase(dbConfig.getDatabaseName())) {
+            System.out.println("❌ loadtest.db.name must differ from db.name - refusing to overwrite production data");
+            return;
+        }
+
+        MockAttendanceApi mockApi = new MockAttendanceApi(loadTestConfig);
+        try {
+            long seedStarted = System.nanoTime();
+            seedDatabase();
+            System.out.printf("✅ Seeded %d punches in %.1f s%n",
+                              loadTestConfig.getRows(), seconds(System.nanoTime() - seedStarted));
+
+            mockApi.start();
+            System.out.println("✅ Mock API listening at " + mockApi.getUrl());
+
+            AttendanceSync app = new AttendanceSync(buildSyncConfig(mockApi.getUrl()));
+            // Per-record INFO logging would dominate the measurement; lane
+            // latencies are printed with the results instead
+            Logger.getLogger(AttendanceSync.class.getName()).setLevel(Level.WARNING);
+            app.setRetainLaneStats(true);
+
+            drain(app, mockApi);
+        } catch (Exception e) {
+            System.out.println("❌ Load test failed: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            mockApi.stop();
+        }
+    }
+
+    /**
+     * Configuration for the sync engine under test: load test database, mock API
+     * and the synthetic machine IDs
+     */
+    private Properties buildSyncConfig(String mockUrl) {
+        Properties syncConfig = new Properties();
+        syncConfig.putAll(baseConfig);
+        syncConfig.setProperty("db.name", loadTestConfig.getDatabaseName());
+        syncConfig.setProperty("api.primary.url", mockUrl);
+        syncConfig.setProperty("app.debug.enabled", "false");
+
+        StringBuilder machineIds = new StringBuilder();
+        for (int i = 0; i < loadTestConfig.getMachines(); i++) {
+            if (i > 0) {
+                machineIds.append(',');
+            }
+            machineIds.append(loadTestConfig.getFirstMachineId() + i);
+        }
+        syncConfig.setProperty("machine.ids", machineIds.toString());
+        return syncConfig;
+    }
+
+    /**
+     * Create the load test database and fill it with synthetic punches
+     */
+    private void seedDatabase() throws SQLException {
+        try (Connection con = openConnection(Constants.LOADTEST_MASTER_DATABASE, false);
+             Statement stmt = con.createStatement()) {
+            stmt.execute(String.format(Constants.LOADTEST_CREATE_DATABASE_SQL, loadTestConfig.getDatabaseName()));
+        }
+
+        try (Connection con = openConnection(loadTestConfig.getDatabaseName(), true)) {
+            try (Statement stmt = con.createStatement()) {
+                stmt.execute(Constants.LOADTEST_DROP_TABLE_SQL);
+                stmt.execute(Constants.LOADTEST_CREATE_TABLE_SQL);
+            }
+
+            Random random = new Random(RANDOM_SEED);
+            long nowSeconds = System.currentTimeMillis() / 1000;
+            int spanSeconds = Math.max(1, loadTestConfig.getDays()) * 86400;
+            int batchSize = Math.max(1, loadTestConfig.getInsertBatchSize());
+
+            con.setAutoCommit(false);
+            try (PreparedStatement ps = con.prepareStatement(Constants.LOADTEST_INSERT_SQL)) {
+                for (int row = 1; row <= loadTestConfig.getRows(); row++) {
+                    int machine = loadTestConfig.getFirstMachineId() + random.nextInt(loadTestConfig.getMachines());
+                    int card = 1 + random.nextInt(loadTestConfig.getCards());
+                    long punchSeconds = nowSeconds - random.nextInt(spanSeconds);
+
+                    ps.setString(1, String.valueOf(machine));
+                    ps.setString(2, String.valueOf(card));
+                    ps.setTimestamp(3, new Timestamp(punchSeconds * 1000));
+                    ps.addBatch();
+
+                    if (row % batchSize == 0 || row == loadTestConfig.getRows()) {
+                        ps.executeBatch();
+                        con.commit();
+                        System.out.println("   Seeded " + row + " / " + loadTestConfig.getRows());
+                    }
+                }
+            }
+            con.setAutoCommit(true);
+
+            try (Statement stmt = con.createStatement()) {
+                stmt.execute(Constants.LOADTEST_CREATE_INDEX_SQL);
+            }
+        }
+    }
+
+    /**
+     * Run sync cycles back to back until no unprocessed rows remain
+     */
+    private void drain(AttendanceSync app, MockAttendanceApi mockApi) throws SQLException {
+        long initial = countUnprocessed();
+        long remaining = initial;
+        int cycles = 0;
+        int sleeps = 0;
+        long engineNanos = 0;
+        long sleepMillis = 0;
+
+        // Only the sync cycles are timed; the progress COUNT(*) is not. The
+        // sleep the service would take between cycles is modelled, not slept.
+        while (remaining > 0 && cycles < loadTestConfig.getMaxCycles()) {
+            cycles++;
+            long cycleStarted = System.nanoTime();
+            app.fetchRecord();
+            engineNanos += System.nanoTime() - cycleStarted;
+
+            remaining = countUnprocessed();
+            long sleepInterval = app.nextSleepInterval();
+            if (remaining > 0 && sleepInterval > 0) {
+                sleeps++;
+                sleepMillis += sleepInterval;
+            }
+            System.out.printf("   Cycle %d: %d remaining after %.1f s engine time%n",
+                              cycles, remaining, seconds(engineNanos));
+        }
+
+        double engine = seconds(engineNanos);
+        double drain = engine + sleepMillis / 1000.0;
+        long synced = initial - remaining;
+
+        // Overall request latency is the union of both lanes' samples
+        LatencyRecorder latency = new LatencyRecorder();
+        latency.recordAll(app.getLiveLane().getRequestLatency());
+        latency.recordAll(app.getBacklogLane().getRequestLatency());
+
+        System.out.println("");
+        System.out.println("Load Test Results");
+        System.out.println("============================================================");
+        String configuredMode = new AppConfig(baseConfig).getExecutionMode();
+        String effectiveMode = app.getEffectiveExecutionMode();
+        System.out.println("Execution mode:     " + effectiveMode
+                           + (effectiveMode.equals(configuredMode) ? "" : " (configured " + configuredMode + ", not supported by this JVM)"));
+        System.out.println("Punches seeded:     " + initial);
+        System.out.println("Punches synced:     " + synced);
+        System.out.println("Sync cycles:        " + cycles + " (" + sleeps + " followed by app.sleep.interval)");
+        System.out.printf("Engine time:        %.1f s%n", engine);
+        System.out.printf("Drain time:         %.1f s including %.1f s modelled sleep%s%n", drain, sleepMillis / 1000.0,
+                          remaining > 0 ? " (NOT drained, " + remaining + " remaining)" : "");
+        System.out.printf("Throughput:         %.1f punches/s engine, %.1f punches/s including sleeps%n",
+                          engine > 0 ? synced / engine : 0, drain > 0 ? synced / drain : 0);
+        System.out.printf("Request rate:       %.1f requests/s%n", engine > 0 ? latency.getCount() / engine : 0);
+        System.out.println("Request latency:    " + latency.summary());
+        System.out.println(app.getLiveLane().summary());
+        System.out.println(app.getBacklogLane().summary());
+        System.out.println("Mock responses:     success=" + mockApi.getSuccessCount()
+                           + " notFound=" + mockApi.getNotFoundCount()
+                           + " error=" + mockApi.getErrorCount());
+    }
+
+    private long countUnprocessed() throws SQLException {
+        try (Connection con = openConnection(loadTestConfig.getDatabaseName(), false);
+             Statement stmt = con.createStatement();
+             ResultSet rs = stmt.executeQuery(Constants.LOADTEST_COUNT_UNPROCESSED_SQL)) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+
+    private Connection openConnection(String databaseName, boolean bulkInsert) throws SQLException {
+        String connectionUrl = String.format(Constants.DB_URL_TEMPLATE,
+                                             dbConfig.getHost(),
+                                             dbConfig.getPort(),
+                                             databaseName);
+        if (bulkInsert) {
+            connectionUrl += Constants.LOADTEST_BULK_INSERT_OPTION;
+        }
+        return DriverManager.getConnection(connectionUrl, dbConfig.getUsername(), dbConfig.getPassword());
+    }
+
+    private static double seconds(long nanos) {
+        return nanos / 1_000_000_000.0;
+    }
+}
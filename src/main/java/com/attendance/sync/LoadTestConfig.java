@@ -0,0 +1,50 @@
+package com.attendance.sync;
+
+import java.util.Properties;
+
+/**
+ * Load test configuration holder
+ */
+public class LoadTestConfig {
+    private String databaseName;
+    private int rows;
+    private int machines;
+    private int firstMachineId;
+    private int cards;
+    private int days;
+    private int insertBatchSize;
+    private int mockPort;
+    private int mockLatencyMs;
+    private double mockErrorRate;
+    private double mockNotFoundRate;
+    private int maxCycles;
+
+    public LoadTestConfig(Properties config) {
+        this.databaseName = config.getProperty("loadtest.db.name", "Realtime_LoadTest");
+        this.rows = Integer.parseInt(config.getProperty("loadtest.rows", "1000000"));
+        this.machines = Integer.parseInt(config.getProperty("loadtest.machines", "6"));
+        this.firstMachineId = Integer.parseInt(config.getProperty("loadtest.machine.first.id", "101"));
+        this.cards = Integer.parseInt(config.getProperty("loadtest.cards", "5000"));
+        this.days = Integer.parseInt(config.getProperty("loadtest.days", "30"));
+        this.insertBatchSize = Integer.parseInt(config.getProperty("loadtest.insert.batch.size", "10000"));
+        this.mockPort = Integer.parseInt(config.getProperty("loadtest.mock.port", "18080"));
+        this.mockLatencyMs = Integer.parseInt(config.getProperty("loadtest.mock.latency.ms", "50"));
+        this.mockErrorRate = Double.parseDouble(config.getProperty("loadtest.mock.error.rate", "0.01"));
+        this.mockNotFoundRate = Double.parseDouble(config.getProperty("loadtest.mock.notfound.rate", "0.02"));
+        this.maxCycles = Integer.parseInt(config.getProperty("loadtest.max.cycles", "1000"));
+    }
+
+    // Getters
+    public String getDatabaseName() { return databaseName; }
+    public int getRows() { return rows; }
+    public int getMachines() { return machines; }
+    public int getFirstMachineId() { return firstMachineId; }
+    public int getCards() { return cards; }
+    public int getDays() { return days; }
+    public int getInsertBatchSize() { return insertBatchSize; }
+    public int getMockPort() { return mockPort; }
+    public int getMockLatencyMs() { return mockLatencyMs; }
+    public double getMockErrorRate() { return mockErrorRate; }
+    public double getMockNotFoundRate() { return mockNotFoundRate; }
+    public int getMaxCycles() { return maxCycles; }
+}
@@ -0,0 +1,117 @@
+package com.attendance.sync;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+/**
+ * Immutable routing table from machine number to endpoint, school code and
+ * priority.
+ *
+ * Built from machine.ids plus optional per-machine overrides:
+ *   machine.&lt;id&gt;.url          (default api.primary.url)
+ *   machine.&lt;id&gt;.school.code  (default school.code)
+ *   machine.&lt;id&gt;.priority     (default 0, see below)
+ *
+ * Punches are always sent in time order; priority only decides which machine
+ * goes first among punches with the same time.
+ *
+ * Routes are held in an array indexed by machine number, so lookup is a
+ * single array access. A new registry is built on every configuration reload
+ * and swapped in as a whole.
+ */
+public class MachineRegistry {
+
+    private static final Logger logger = Logger.getLogger(AttendanceSync.class.getName());
+
+    private final MachineRoute[] routes;
+    private final String configuredIds;
+
+    /**
+     * Build the registry. With skipInvalid, used at startup, invalid machine
+     * IDs are logged and skipped and invalid priorities fall back to 0, so a
+     * bad entry cannot stop the service; otherwise, as on reload, they fail
+     * with IllegalArgumentException and the caller keeps its previous
+     * registry. Blank entries (an empty list or a stray comma) are ignored.
+     */
+    public MachineRegistry(Properties config, boolean skipInvalid) {
+        ApiConfig apiConfig = new ApiConfig(config);
+        SchoolConfig schoolConfig = new SchoolConfig(config);
+        // Split machine.ids here rather than through AppConfig, so a malformed
+        // unrelated app.* setting cannot reject a machine change on reload
+        String[] machineIds = config.getProperty("machine.ids", Constants.DEFAULT_MACHINE_IDS).split(",");
+
+        List<MachineRoute> parsed = new ArrayList<>();
+        List<String> validIds = new ArrayList<>();
+        int maxMachineNo = -1;
+        for (String entry : machineIds) {
+            String machineId = entry.trim();
+            if (machineId.isEmpty()) {
+                continue;
+            }
+            short machineNo;
+            try {
+                machineNo = Short.parseShort(machineId);
+            } catch (NumberFormatException e) {
+                machineNo = -1;
+            }
+            if (machineNo < 0) {
+                if (!skipInvalid) {
+                    throw new IllegalArgumentException(Constants.ERROR_INVALID_MACHINE_ID + machineId);
+                }
+                logger.warning(Constants.ERROR_INVALID_MACHINE_ID + machineId + " - skipped");
+                continue;
+            }
+
+            String prefix = "machine." + machineId + ".";
+            String priority = config.getProperty(prefix + "priority", "0").trim();
+            int parsedPriority;
+            try {
+                parsedPriority = Integer.parseInt(priority);
+            } catch (NumberFormatException e) {
+                if (!skipInvalid) {
+                    throw new IllegalArgumentException(Constants.ERROR_INVALID_MACHINE_PRIORITY + prefix + "priority=" + priority);
+                }
+                logger.warning(Constants.ERROR_INVALID_MACHINE_PRIORITY + prefix + "priority=" + priority + " - using 0");
+                parsedPriority = 0;
+            }
+
+            parsed.add(new MachineRoute(
+                machineNo,
+                config.getProperty(prefix + "url", apiConfig.getPrimaryUrl()).trim(),
+                config.getProperty(prefix + "school.code", schoolConfig.getSchoolCode()).trim(),
+                parsedPriority));
+            validIds.add(machineId);
+            maxMachineNo = Math.max(maxMachineNo, machineNo);
+        }
+
+        this.routes = new MachineRoute[maxMachineNo + 1];
+        for (MachineRoute route : parsed) {
+            routes[route.getMachineNo()] = route;
+        }
+        this.configuredIds = String.join(",", validIds);
+    }
+
+    /**
+     * Route for the given machine, or null if the machine is not configured
+     */
+    public MachineRoute lookup(short machineNo) {
+        return machineNo >= 0 && machineNo < routes.length ? routes[machineNo] : null;
+    }
+
+    /**
+     * Priority of the given machine, 0 if not configured
+     */
+    public int priorityOf(short machineNo) {
+        MachineRoute route = lookup(machineNo);
+        return route != null ? route.getPriority() : 0;
+    }
+
+    /**
+     * Comma-separated configured machine IDs
+     */
+    public String getConfiguredIds() {
+        return configuredIds;
+    }
+}
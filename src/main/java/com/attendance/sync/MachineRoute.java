@@ -0,0 +1,32 @@
+package com.attendance.sync;
+
+/**
+ * Routing entry for one biometric machine
+ */
+public class MachineRoute {
+    private short machineNo;
+    private String endpoint;
+    private String schoolCode;
+    private int priority;
+    private String urlPrefix;
+
+    public MachineRoute(short machineNo, String endpoint, String schoolCode, int priority) {
+        this.machineNo = machineNo;
+        this.endpoint = endpoint;
+        this.schoolCode = schoolCode;
+        this.priority = priority;
+        this.urlPrefix = endpoint + "?" + Constants.API_PARAM_SCHOOL_CODE + "=" + schoolCode
+                         + "&" + Constants.API_PARAM_ATTENDANCE_DATA + "=";
+    }
+
+    // Getters
+    public short getMachineNo() { return machineNo; }
+    public String getEndpoint() { return endpoint; }
+    public String getSchoolCode() { return schoolCode; }
+    public int getPriority() { return priority; }
+
+    /**
+     * Request URL up to the URL-encoded attendance data
+     */
+    public String getUrlPrefix() { return urlPrefix; }
+}
@@ -0,0 +1,105 @@
+package com.attendance.sync;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * In-process mock of the StaffBiomatricPunch API used by load test mode.
+ *
+ * Every request waits for the configured latency, then fails with HTTP 500,
+ * answers "Employee not found", or succeeds according to the configured rates.
+ */
+public class MockAttendanceApi implements HttpHandler {
+
+    private static final String SUCCESS_BODY = "{\"status\":\"success\",\"message\":\"Attendance saved successfully\"}";
+    private static final String NOT_FOUND_BODY = "{\"status\":\"error\",\"message\":\"Employee not found\"}";
+    private static final String ERROR_BODY = "{\"status\":\"error\",\"message\":\"Internal server error\"}";
+
+    private final LoadTestConfig loadTestConfig;
+    private final AtomicLong successCount = new AtomicLong();
+    private final AtomicLong notFoundCount = new AtomicLong();
+    private final AtomicLong errorCount = new AtomicLong();
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public MockAttendanceApi(LoadTestConfig loadTestConfig) {
+        this.loadTestConfig = loadTestConfig;
+    }
+
+    /**
+     * Start listening on the loopback interface
+     */
+    public void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", loadTestConfig.getMockPort()), 1024);
+        server.createContext(Constants.LOADTEST_MOCK_PATH, this);
+        executor = VirtualThreads.isSupported() ? VirtualThreads.newExecutor() : Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * Stop the server and its request threads
+     */
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * URL of the mock endpoint, suitable for api.primary.url
+     */
+    public String getUrl() {
+        return "http://127.0.0.1:" + loadTestConfig.getMockPort() + Constants.LOADTEST_MOCK_PATH;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (loadTestConfig.getMockLatencyMs() > 0) {
+                Thread.sleep(loadTestConfig.getMockLatencyMs());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        double roll = ThreadLocalRandom.current().nextDouble();
+        if (roll < loadTestConfig.getMockErrorRate()) {
+            errorCount.incrementAndGet();
+            respond(exchange, 500, ERROR_BODY);
+        } else if (roll < loadTestConfig.getMockErrorRate() + loadTestConfig.getMockNotFoundRate()) {
+            notFoundCount.incrementAndGet();
+            respond(exchange, 200, NOT_FOUND_BODY);
+        } else {
+            successCount.incrementAndGet();
+            respond(exchange, 200, SUCCESS_BODY);
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    // Getters
+    public long getSuccessCount() { return successCount.get(); }
+    public long getNotFoundCount() { return notFoundCount.get(); }
+    public long getErrorCount() { return errorCount.get(); }
+}
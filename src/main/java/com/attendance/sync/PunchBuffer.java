@@ -0,0 +1,170 @@
+package com.attendance.sync;
+
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Compact in-memory buffer of raw punches.
+ *
+ * Each punch is stored in parallel primitive arrays as machine number (short),
+ * card number (int) and punch time (epoch milliseconds), about 14 bytes per
+ * punch instead of three Strings and a JSON tree. Punches stay in this form
+ * through sorting and de-duplication; they are formatted for the API only
+ * when they are sent.
+ */
+public class PunchBuffer {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private short[] machines;
+    private int[] cards;
+    private long[] times;
+    private int size;
+    private IntUnaryOperator priority = machine -> 0;
+
+    public PunchBuffer() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public PunchBuffer(int capacity) {
+        int initial = Math.max(1, capacity);
+        this.machines = new short[initial];
+        this.cards = new int[initial];
+        this.times = new long[initial];
+    }
+
+    /**
+     * Append a punch
+     */
+    public void add(short machine, int card, long epochMillis) {
+        if (size == machines.length) {
+            int capacity = machines.length * 2;
+            machines = Arrays.copyOf(machines, capacity);
+            cards = Arrays.copyOf(cards, capacity);
+            times = Arrays.copyOf(times, capacity);
+        }
+        machines[size] = machine;
+        cards[size] = card;
+        times[size] = epochMillis;
+        size++;
+    }
+
+    // Accessors
+    public int size() { return size; }
+    public short getMachine(int index) { return machines[index]; }
+    public int getCard(int index) { return cards[index]; }
+    public long getTime(int index) { return times[index]; }
+
+    /**
+     * Sort punches by punch time, then machine (higher priority first), then
+     * card, the order in which they are sent. The priority function maps a
+     * machine number to its priority.
+     */
+    public void sort(IntUnaryOperator priority) {
+        this.priority = priority;
+        quickSort(0, size - 1);
+    }
+
+    /**
+     * Remove identical punches (same machine, card and time). Must be called
+     * after {@link #sort(IntUnaryOperator)}. Returns the number of punches removed.
+     */
+    public int dedup() {
+        if (size < 2) {
+            return 0;
+        }
+        int write = 1;
+        for (int read = 1; read < size; read++) {
+            if (compare(read, write - 1) != 0) {
+                if (read != write) {
+                    machines[write] = machines[read];
+                    cards[write] = cards[read];
+                    times[write] = times[read];
+                }
+                write++;
+            }
+        }
+        int removed = size - write;
+        size = write;
+        return removed;
+    }
+
+    private int compare(int a, int b) {
+        if (times[a] != times[b]) {
+            return times[a] < times[b] ? -1 : 1;
+        }
+        if (machines[a] != machines[b]) {
+            return compareMachines(a, b);
+        }
+        if (cards[a] != cards[b]) {
+            return cards[a] < cards[b] ? -1 : 1;
+        }
+        return 0;
+    }
+
+    private int compareMachines(int a, int b) {
+        int priorityA = priority.applyAsInt(machines[a]);
+        int priorityB = priority.applyAsInt(machines[b]);
+        if (priorityA != priorityB) {
+            return priorityA > priorityB ? -1 : 1;
+        }
+        return machines[a] < machines[b] ? -1 : 1;
+    }
+
+    private void swap(int a, int b) {
+        short machine = machines[a];
+        machines[a] = machines[b];
+        machines[b] = machine;
+        int card = cards[a];
+        cards[a] = cards[b];
+        cards[b] = card;
+        long time = times[a];
+        times[a] = times[b];
+        times[b] = time;
+    }
+
+    /**
+     * In-place quicksort over the parallel arrays; recurses into the smaller
+     * half so stack depth stays logarithmic
+     */
+    private void quickSort(int low, int high) {
+        while (high - low > INSERTION_SORT_THRESHOLD) {
+            int mid = (low + high) >>> 1;
+            if (compare(mid, low) < 0) swap(mid, low);
+            if (compare(high, low) < 0) swap(high, low);
+            if (compare(high, mid) < 0) swap(high, mid);
+            swap(mid, high - 1);
+            int pivot = high - 1;
+
+            int i = low;
+            int j = high - 1;
+            while (true) {
+                while (compare(++i, pivot) < 0) { }
+                while (compare(--j, pivot) > 0) { }
+                if (i >= j) {
+                    break;
+                }
+                swap(i, j);
+            }
+            swap(i, high - 1);
+
+            if (i - low < high - i) {
+                quickSort(low, i - 1);
+                low = i + 1;
+            } else {
+                quickSort(i + 1, high);
+                high = i - 1;
+            }
+        }
+        insertionSort(low, high);
+    }
+
+    private void insertionSort(int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            for (int j = i; j > low && compare(j, j - 1) < 0; j--) {
+                swap(j, j - 1);
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.attendance.sync;
+
+import java.sql.Timestamp;
+
+/**
+ * Raw punch row kept with its original column values.
+ *
+ * Used for the few rows that cannot be packed into a {@link PunchBuffer}
+ * without changing how they are matched when marked as synced, such as
+ * zero-padded card numbers or sub-millisecond punch times.
+ */
+public class PunchRecord {
+    private String machineId;
+    private String cardNo;
+    private Timestamp punchTime;
+
+    public PunchRecord(String machineId, String cardNo, Timestamp punchTime) {
+        this.machineId = machineId;
+        this.cardNo = cardNo;
+        this.punchTime = punchTime;
+    }
+
+    // Getters
+    public String getMachineId() { return machineId; }
+    public String getCardNo() { return cardNo; }
+    public Timestamp getPunchTime() { return punchTime; }
+}
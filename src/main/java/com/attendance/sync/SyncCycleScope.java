@@ -0,0 +1,92 @@
+package com.attendance.sync;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Structured scope for the tasks of a single sync cycle.
+ *
+ * Tasks are forked from the cycle thread and joined together: the cycle
+ * completes only when every task has finished, and if any task fails or the
+ * cycle thread is interrupted, all remaining tasks are cancelled so the cycle
+ * ends as a unit. Closing the scope shuts down its executor.
+ *
+ * Only unfinished tasks are retained; finished ones are reaped on every fork,
+ * so memory is bounded by the number of tasks in flight rather than by the
+ * number forked over the cycle.
+ */
+public class SyncCycleScope implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final CompletionService<Void> completion;
+    private final Set<Future<Void>> running = new HashSet<>();
+
+    public SyncCycleScope(ExecutorService executor) {
+        this.executor = executor;
+        this.completion = new ExecutorCompletionService<>(executor);
+    }
+
+    /**
+     * Start a task in this scope. Fails with the first failure of an earlier
+     * task, after cancelling the rest.
+     */
+    public void fork(Callable<Void> task) throws ExecutionException {
+        Future<Void> done;
+        while ((done = completion.poll()) != null) {
+            complete(done);
+        }
+        running.add(completion.submit(task));
+    }
+
+    /**
+     * Wait for all forked tasks, cancelling the rest on the first failure
+     */
+    public void join() throws InterruptedException, ExecutionException {
+        try {
+            while (!running.isEmpty()) {
+                complete(completion.take());
+            }
+        } catch (InterruptedException e) {
+            cancelAll();
+            throw e;
+        }
+    }
+
+    private void complete(Future<Void> done) throws ExecutionException {
+        running.remove(done);
+        try {
+            done.get();
+        } catch (InterruptedException e) {
+            // Unreachable for a completed future
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            cancelAll();
+            throw e;
+        }
+    }
+
+    private void cancelAll() {
+        for (Future<Void> task : running) {
+            task.cancel(true);
+        }
+        running.clear();
+    }
+
+    @Override
+    public void close() {
+        cancelAll();
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.attendance.sync;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * One scheduling lane of the sync engine.
+ *
+ * The live lane carries punches inside the freshness window and the backlog
+ * lane carries older catch-up punches. Each lane holds the punches fetched in
+ * the current cycle in send order and per-cycle latency statistics:
+ * request duration and punch age at sync (time from the punch to the portal
+ * seeing it).
+ */
+public class SyncLane {
+
+    private static final Logger logger = Logger.getLogger(AttendanceSync.class.getName());
+
+    private final String name;
+    private final LatencyRecorder requestLatency = new LatencyRecorder();
+    private final LatencyRecorder punchAge = new LatencyRecorder();
+
+    private PunchBuffer punches = new PunchBuffer();
+    private List<PunchRecord> rawRecords = new ArrayList<>();
+    private int rowsFetched;
+    private PunchRecord lastRow;
+
+    public SyncLane(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Run the lane's fetch query and read its rows into a new packed buffer.
+     *
+     * A row is packed only if its values can be reproduced exactly when it is
+     * marked as synced: MachineNo and CardNo must be canonical numbers (no
+     * leading zeros or signs) and PunchDatetime must have whole milliseconds.
+     * Other rows with numeric values are kept as raw records; rows with
+     * missing or non-numeric values are logged and skipped. The last row is
+     * kept with its original values as the paging cursor for the next fetch.
+     */
+    public PunchBuffer fetch(PreparedStatement ps) throws SQLException {
+        punches = new PunchBuffer();
+        rawRecords = new ArrayList<>();
+        rowsFetched = 0;
+        lastRow = null;
+
+        String lastMachineNo = null;
+        String lastCardNo = null;
+        Timestamp lastPunchTime = null;
+        try (ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                rowsFetched++;
+                String machineNo = rs.getString("MachineNo");
+                String cardNo = rs.getString("CardNo");
+                Timestamp punchTime = rs.getTimestamp("PunchDatetime");
+                lastMachineNo = machineNo;
+                lastCardNo = cardNo;
+                lastPunchTime = punchTime;
+                if (machineNo == null || cardNo == null || punchTime == null) {
+                    logger.warning(Constants.ERROR_INVALID_PUNCH + machineNo + "/" + cardNo + "/" + punchTime);
+                    continue;
+                }
+                short machine;
+                int card;
+                try {
+                    machine = Short.parseShort(machineNo.trim());
+                    card = Integer.parseInt(cardNo.trim());
+                } catch (NumberFormatException e) {
+                    logger.warning(Constants.ERROR_INVALID_PUNCH + machineNo + "/" + cardNo + "/" + punchTime);
+                    continue;
+                }
+                if (isCanonical(machineNo, machine) && isCanonical(cardNo, card)
+                    && punchTime.getNanos() % 1_000_000 == 0) {
+                    punches.add(machine, card, punchTime.getTime());
+                } else {
+                    rawRecords.add(new PunchRecord(machineNo, cardNo, punchTime));
+                }
+            }
+        } finally {
+            ps.close();
+        }
+        if (rowsFetched > 0) {
+            lastRow = new PunchRecord(lastMachineNo, lastCardNo, lastPunchTime);
+        }
+        return punches;
+    }
+
+    /**
+     * Whether the column value is exactly the number's decimal form, apart
+     * from trailing padding, which SQL Server ignores when comparing strings
+     */
+    private static boolean isCanonical(String value, int number) {
+        String canonical = String.valueOf(number);
+        return value.startsWith(canonical) && value.trim().equals(canonical);
+    }
+
+    /**
+     * Record the duration of one API request sent from this lane
+     */
+    public void recordRequest(long nanos) {
+        requestLatency.record(nanos);
+    }
+
+    /**
+     * Record punch age at sync for one punch time in epoch milliseconds
+     */
+    public void recordSynced(long punchMillis) {
+        punchAge.record(Math.max(0, System.currentTimeMillis() - punchMillis) * 1_000_000L);
+    }
+
+    /**
+     * One-line latency report since the last {@link #resetStats()}
+     */
+    public String summary() {
+        return name + " lane: request latency " + requestLatency.summary()
+               + ", punch age at sync " + punchAge.summarySeconds();
+    }
+
+    /**
+     * Clear latency statistics before the next cycle
+     */
+    public void resetStats() {
+        requestLatency.reset();
+        punchAge.reset();
+    }
+
+    // Getters
+    public String getName() { return name; }
+    public LatencyRecorder getRequestLatency() { return requestLatency; }
+    public PunchBuffer getPunches() { return punches; }
+    public List<PunchRecord> getRawRecords() { return rawRecords; }
+    public int getRowsFetched() { return rowsFetched; }
+    public PunchRecord getLastRow() { return lastRow; }
+}
@@ -0,0 +1,59 @@
+package com.attendance.sync;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Access to Java 21 virtual threads without requiring a Java 21 compiler.
+ *
+ * The executor factory is looked up reflectively so the application still
+ * builds and runs on older JVMs, and on JVMs where virtual threads are only
+ * a disabled preview feature, where callers fall back to the single-threaded
+ * sync path.
+ */
+public final class VirtualThreads {
+
+    private static final Method NEW_VIRTUAL_EXECUTOR = lookupExecutorFactory();
+
+    /**
+     * Find the executor factory and check that it works: on JDK 19 and 20 it
+     * exists as a preview API and throws unless --enable-preview is set, so
+     * one executor is created and closed here. Any failure means no support.
+     */
+    private static Method lookupExecutorFactory() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            ((ExecutorService) factory.invoke(null)).shutdown();
+            return factory;
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Whether the running JVM supports virtual threads
+     */
+    public static boolean isSupported() {
+        return NEW_VIRTUAL_EXECUTOR != null;
+    }
+
+    /**
+     * Create an executor that starts a new virtual thread for each task
+     */
+    public static ExecutorService newExecutor() {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException(Constants.ERROR_VIRTUAL_UNSUPPORTED);
+        }
+        try {
+            return (ExecutorService) NEW_VIRTUAL_EXECUTOR.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to create virtual thread executor", e);
+        }
+    }
+
+    // Private constructor to prevent instantiation
+    private VirtualThreads() {
+        throw new UnsupportedOperationException("VirtualThreads class cannot be instantiated");
+    }
+}